@@ -0,0 +1,175 @@
+package com.sports.livesportstrackingsystem.scheduler;
+
+import com.sports.livesportstrackingsystem.external.ExternalApiService;
+import com.sports.livesportstrackingsystem.kafka.KafkaProducerService;
+import com.sports.livesportstrackingsystem.model.EventExternalApiResponse;
+import com.sports.livesportstrackingsystem.tracing.FreshnessSampler;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Allocation per poll (read {@code gc.alloc.rate.norm}, bytes/op) across 20k live events, from WebClient
+ * assembly and JSON decoding through to Kafka serialization. Only the network is stubbed: the exchange
+ * returns a canned JSON body and records go to a {@link MockProducer}.
+ * <p>
+ * {@code perCallAssembly} is the baseline {@code fetchAndSendEventData}/{@code sendMessage} path, kept in
+ * {@link BaselinePoller} minus its log statements, which are off at the default INFO level on both paths anyway.
+ * Run with {@code ./mvnw -Pbenchmark test-compile exec:exec}.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PollAllocationBenchmark {
+    private static final int LIVE_EVENTS = 20_000;
+    private static final String API_URL = "http://localhost:8080/mock-event-api/{eventId}";
+    private static final String TOPIC = "sports-events-topic";
+    private static final String BODY = "{\"eventId\":\"event-0\",\"currentScore\":\"3:1\",\"timestamp\":1700000000000}";
+
+    private static final ExchangeFunction STUB_EXCHANGE = request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .body(BODY)
+            .build());
+
+    private final List<PollTask> pollTasks = new ArrayList<>(LIVE_EVENTS);
+    private final List<String> eventIds = new ArrayList<>(LIVE_EVENTS);
+    private BaselinePoller baselinePoller;
+    private NonClosingMockProducer<EventExternalApiResponse> producer;
+    private NonClosingMockProducer<BaselineResponse> baselineProducer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // same as the default logging.level in application.properties, so the per-poll debug lines are off on both paths
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME))
+                .setLevel(ch.qos.logback.classic.Level.INFO);
+
+        producer = new NonClosingMockProducer<>();
+        KafkaProducerService kafkaProducerService = new KafkaProducerService(new KafkaTemplate<>(() -> producer), new FreshnessSampler(1024));
+        ReflectionTestUtils.setField(kafkaProducerService, "topic", TOPIC);
+        ExternalApiService externalApiService = new ExternalApiService(WebClient.builder().exchangeFunction(STUB_EXCHANGE), API_URL);
+
+        baselineProducer = new NonClosingMockProducer<>();
+        baselinePoller = new BaselinePoller(WebClient.builder().exchangeFunction(STUB_EXCHANGE).build(), new KafkaTemplate<>(() -> baselineProducer));
+
+        for (int i = 0; i < LIVE_EVENTS; i++) {
+            String eventId = "event-" + i;
+            eventIds.add(eventId);
+            pollTasks.add(new PollTask(eventId, 0L, externalApiService.getEventScore(eventId), kafkaProducerService));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void clearSentRecords() {
+        producer.clear();
+        baselineProducer.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LIVE_EVENTS)
+    public void preAssembled() {
+        for (PollTask pollTask : pollTasks) {
+            pollTask.run();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LIVE_EVENTS)
+    public void perCallAssembly() {
+        for (String eventId : eventIds) {
+            baselinePoller.fetchAndSendEventData(eventId);
+        }
+    }
+
+    // KafkaTemplate closes non-transactional producers after each send
+    private static class NonClosingMockProducer<V> extends MockProducer<String, V> {
+        NonClosingMockProducer() {
+            super(true, new StringSerializer(), new JsonSerializer<>());
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void close(Duration timeout) {
+        }
+    }
+
+    // the response model as it was before the score was packed
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BaselineResponse {
+        private String eventId;
+        private String currentScore;
+        private Long timestamp;
+    }
+
+    // ExternalApiService.getEventScore, EventScheduler.fetchAndSendEventData and KafkaProducerService.sendMessage before the change
+    private static class BaselinePoller {
+        private final WebClient webClient;
+        private final KafkaTemplate<String, BaselineResponse> kafkaTemplate;
+
+        BaselinePoller(WebClient webClient, KafkaTemplate<String, BaselineResponse> kafkaTemplate) {
+            this.webClient = webClient;
+            this.kafkaTemplate = kafkaTemplate;
+        }
+
+        void fetchAndSendEventData(String eventId) {
+            getEventScore(eventId)
+                    .doOnSuccess(this::sendMessage)
+                    .doOnError(error -> { })
+                    .subscribe();
+        }
+
+        Mono<BaselineResponse> getEventScore(String eventId) {
+            String url = API_URL.replace("{eventId}", eventId);
+            return webClient.get()
+                    .uri(url)
+                    .retrieve()
+                    .bodyToMono(BaselineResponse.class)
+                    .retryWhen(Retry.backoff(3, Duration.ofSeconds(3)))
+                    .onErrorResume(e -> Mono.error(new RuntimeException("External API call failed for eventId: " + eventId, e)));
+        }
+
+        void sendMessage(BaselineResponse response) {
+            BaselineResponse message = BaselineResponse.builder()
+                    .eventId(response.getEventId())
+                    .currentScore(response.getCurrentScore())
+                    .timestamp(Instant.now().toEpochMilli())
+                    .build();
+            kafkaTemplate.send(TOPIC, message.getEventId(), message);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.sports.livesportstrackingsystem.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounds on the live-event registry, so events whose NOT_LIVE never arrives stop being polled.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.events")
+public class LiveEventProperties {
+
+    public enum EvictionPolicy {
+        // drop the least recently active event (last score change or LIVE refresh) to make room
+        EVICT_LEAST_RECENT,
+        // refuse new LIVE events until room frees up
+        REJECT_NEW
+    }
+
+    // hard limit on how long an event is polled, however active it is
+    private Duration maxLifetime = Duration.ofHours(6);
+    // expire when neither the score nor the status changed for this long; long enough for a goalless
+    // match, the fixture system must re-send LIVE more often than this for anything quieter
+    private Duration idleTtl = Duration.ofHours(3);
+    private int maxLive = 50_000;
+    private EvictionPolicy evictionPolicy = EvictionPolicy.EVICT_LEAST_RECENT;
+    // granularity of the expiry timer wheel
+    private Duration expiryTick = Duration.ofSeconds(1);
+}
@@ -1,5 +1,6 @@
 package com.sports.livesportstrackingsystem.controller;
 
+import com.sports.livesportstrackingsystem.exception.LiveEventLimitException;
 import com.sports.livesportstrackingsystem.model.EventStatusRequest;
 import com.sports.livesportstrackingsystem.service.EventService;
 import jakarta.validation.Valid;
@@ -25,6 +26,9 @@ public class EventController {
         try {
             eventService.updateStatusEvent(request);
             return ResponseEntity.ok("Event status updated successfully for event: " + request.getEventId());
+        } catch (LiveEventLimitException e) {
+            // mapped to 503 by GlobalExceptionHandler so the sender knows the event is not tracked
+            throw e;
         } catch (Exception e) {
             logger.error("Error updating event status for eventId: {}", request.getEventId(), e);
             return ResponseEntity.internalServerError().body("Failed to update event status: " + e.getMessage());
@@ -22,6 +22,12 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(LiveEventLimitException.class)
+    public ResponseEntity<Object> handleLiveEventLimitException(LiveEventLimitException exception) {
+        log.warn("Rejected status update: {}", exception.getMessage());
+        return new ResponseEntity<>(exception.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Object> handleRunTimeException(Exception exception) {
         log.error("Unexpected error occurred [{}]: {}", exception.getClass().getSimpleName(), exception.getMessage(), exception);
@@ -0,0 +1,7 @@
+package com.sports.livesportstrackingsystem.exception;
+
+public class LiveEventLimitException extends RuntimeException {
+    public LiveEventLimitException(String eventId, int maxLive) {
+        super("Live event limit of " + maxLive + " reached, event " + eventId + " is not being tracked.");
+    }
+}
@@ -5,32 +5,41 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriTemplate;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
 
+import java.net.URI;
 import java.time.Duration;
 
 @Slf4j
 @Service
 public class ExternalApiService {
+    private static final RetryBackoffSpec RETRY = Retry.backoff(3, Duration.ofSeconds(3));
+
     private final WebClient webClient;
-    @Value("${external.api.url}")
-    private String externalApiUrl;
+    // parsed once, expanded once per event
+    private final UriTemplate externalApiUri;
 
-    public ExternalApiService(WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl(externalApiUrl).build();
+    public ExternalApiService(WebClient.Builder webClientBuilder, @Value("${external.api.url}") String externalApiUrl) {
+        this.webClient = webClientBuilder.build();
+        this.externalApiUri = new UriTemplate(externalApiUrl);
     }
 
+    /**
+     * Returns a cold pipeline for the event's score: every subscription performs a new request,
+     * so callers can assemble it once and resubscribe on each poll.
+     */
     public Mono<EventExternalApiResponse> getEventScore(String eventId) {
-        String url = externalApiUrl.replace("{eventId}", eventId);
-        log.debug("Calling external API: {}", url);
+        URI uri = externalApiUri.expand(eventId);
+        log.debug("Assembling external API call: {}", uri);
 
         return webClient.get()
-                .uri(url)
+                .uri(uri)
                 .retrieve()
                 .bodyToMono(EventExternalApiResponse.class)
-                .retryWhen(Retry.backoff(3, Duration.ofSeconds(3))
-                        .doBeforeRetry(retrySignal -> log.warn("Retrying external API call for eventId {}. Attempt -{}", eventId, retrySignal.totalRetriesInARow())))
+                .retryWhen(RETRY.doBeforeRetry(retrySignal -> log.warn("Retrying external API call for eventId {}. Attempt -{}", eventId, retrySignal.totalRetriesInARow())))
                 .onErrorResume(e -> {
                     log.error("Failed to retrieve event score for eventId {} from external API: {}", eventId, e.getMessage(), e);
                     return Mono.error(new RuntimeException("External API call failed for eventId: " + eventId, e));
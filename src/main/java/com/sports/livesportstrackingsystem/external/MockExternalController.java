@@ -1,6 +1,7 @@
 package com.sports.livesportstrackingsystem.external;
 
 import com.sports.livesportstrackingsystem.model.EventExternalApiResponse;
+import com.sports.livesportstrackingsystem.model.Score;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,11 +21,12 @@ public class MockExternalController {
     @GetMapping("/{eventId}")
     public ResponseEntity<EventExternalApiResponse> getEventScore(@PathVariable String eventId) {
         // Simulate some random scores
-        String score = random.nextInt(10) + ":" + random.nextInt(10);
+        long score = Score.pack(random.nextInt(10), random.nextInt(10));
         EventExternalApiResponse response = new EventExternalApiResponse();
         response.setEventId(eventId);
-        response.setCurrentScore(score);
-        log.info("Mock API: Responding for eventId {} with score: {}", eventId, score);
+        response.setScore(score);
+        response.setTimestamp(System.currentTimeMillis());
+        log.info("Mock API: Responding for eventId {} with score: {}", eventId, Score.toString(score));
         return ResponseEntity.ok(response);
     }
 }
@@ -1,31 +1,52 @@
 package com.sports.livesportstrackingsystem.kafka;
 
 import com.sports.livesportstrackingsystem.model.EventExternalApiResponse;
+import com.sports.livesportstrackingsystem.tracing.FreshnessSampler;
+import com.sports.livesportstrackingsystem.tracing.TraceHeaders;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
-
 @Slf4j
 @Service
 public class KafkaProducerService {
     private final KafkaTemplate<String, EventExternalApiResponse> kafkaTemplate;
+    private final FreshnessSampler freshnessSampler;
     @Value("${app.kafka.topic.sports-events}")
     private String topic;
 
-    public KafkaProducerService(KafkaTemplate<String, EventExternalApiResponse> kafkaTemplate) {
+    public KafkaProducerService(KafkaTemplate<String, EventExternalApiResponse> kafkaTemplate, FreshnessSampler freshnessSampler) {
         this.kafkaTemplate = kafkaTemplate;
+        this.freshnessSampler = freshnessSampler;
     }
 
-    public void sendMessage(EventExternalApiResponse eventExternalApiResponse) {
-        EventExternalApiResponse message = EventExternalApiResponse.builder()
-                .eventId(eventExternalApiResponse.getEventId())
-                .currentScore(eventExternalApiResponse.getCurrentScore())
-                .timestamp(Instant.now().toEpochMilli())
-                .build();
+    /**
+     * Publishes the score with its freshness trace as record headers. The payload {@code timestamp}
+     * is overwritten with the send time, the upstream value is kept in {@link TraceHeaders#UPSTREAM_TS}.
+     *
+     * @param sequence  per-event poll sequence assigned when the poll was dispatched
+     * @param fetchedAt epoch millis at which the external API response was received
+     */
+    public void sendMessage(EventExternalApiResponse eventExternalApiResponse, long sequence, long fetchedAt) {
+        long sentAt = System.currentTimeMillis();
+        Long upstreamTimestamp = eventExternalApiResponse.getTimestamp();
+
+        // the decoded response is owned by this poll, so stamp it in place instead of copying it
+        eventExternalApiResponse.setTimestamp(sentAt);
+
+        ProducerRecord<String, EventExternalApiResponse> record = new ProducerRecord<>(topic, eventExternalApiResponse.getEventId(), eventExternalApiResponse);
+        TraceHeaders.writeLong(record.headers(), TraceHeaders.SEQUENCE, sequence);
+        TraceHeaders.writeLong(record.headers(), TraceHeaders.FETCHED_TS, fetchedAt);
+        TraceHeaders.writeLong(record.headers(), TraceHeaders.SENT_TS, sentAt);
+        if (upstreamTimestamp != null) {
+            TraceHeaders.writeLong(record.headers(), TraceHeaders.UPSTREAM_TS, upstreamTimestamp);
+            freshnessSampler.record(FreshnessSampler.Stage.UPSTREAM_TO_FETCH, fetchedAt - upstreamTimestamp);
+            freshnessSampler.record(FreshnessSampler.Stage.UPSTREAM_TO_SEND, sentAt - upstreamTimestamp);
+        }
+        freshnessSampler.record(FreshnessSampler.Stage.FETCH_TO_SEND, sentAt - fetchedAt);
 
-        kafkaTemplate.send(topic, message.getEventId(), message);
+        kafkaTemplate.send(record);
     }
 }
@@ -9,4 +9,5 @@ public class Event {
     private String eventId;
     private EventStatus status;
     private long lastUpdated;
+    private long startedAt;
 }
@@ -1,5 +1,10 @@
 package com.sports.livesportstrackingsystem.model;
 
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,6 +16,30 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class EventExternalApiResponse {
     private String eventId;
-    private String currentScore;
+    // packed with Score, still "h:a" on the wire
+    @Builder.Default
+    @JsonIgnore
+    private long score = Score.UNKNOWN;
+    // upstream text when it could not be packed, published back unchanged
+    @JsonIgnore
+    private String rawScore;
     private Long timestamp;
+
+    @JsonGetter("currentScore")
+    @JsonSerialize(using = ScoreJsonSerializer.class)
+    private Object currentScoreJson() {
+        return score == Score.UNKNOWN ? rawScore : score;
+    }
+
+    @JsonSetter("currentScore")
+    @JsonDeserialize(using = ScoreJsonDeserializer.class)
+    private void currentScoreJson(Object value) {
+        if (value instanceof Long packed) {
+            score = packed;
+            rawScore = null;
+        } else {
+            score = Score.UNKNOWN;
+            rawScore = (String) value;
+        }
+    }
 }
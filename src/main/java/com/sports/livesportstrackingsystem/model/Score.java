@@ -0,0 +1,104 @@
+package com.sports.livesportstrackingsystem.model;
+
+/**
+ * Packs a home/away score into a single {@code long} (home in the high 32 bits, away in the low 32 bits)
+ * so the poll-to-publish path never has to carry the score as a {@code "h:a"} String.
+ * <p>
+ * Jackson still boxes the field on decode and encode: a packed score with a non-zero home side is outside
+ * the {@code Long} cache, so each (de)serialization allocates one {@code Long} in place of the String.
+ */
+public final class Score {
+    // never produced by pack() since both halves are non-negative
+    public static final long UNKNOWN = -1L;
+    public static final char SEPARATOR = ':';
+    // two non-negative ints plus the separator
+    public static final int MAX_TEXT_LENGTH = 21;
+
+    private Score() {
+    }
+
+    public static long pack(int home, int away) {
+        if (home < 0 || away < 0) {
+            throw new IllegalArgumentException("Score components must be non-negative: " + home + SEPARATOR + away);
+        }
+        return ((long) home << 32) | away;
+    }
+
+    public static int home(long score) {
+        return (int) (score >>> 32);
+    }
+
+    public static int away(long score) {
+        return (int) score;
+    }
+
+    /**
+     * Parses {@code "h:a"} (or {@code "h-a"}) without allocating, returning {@link #UNKNOWN} if malformed.
+     */
+    public static long parse(char[] text, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        long home = 0;
+        int digits = 0;
+        while (i < end && text[i] >= '0' && text[i] <= '9') {
+            home = home * 10 + (text[i++] - '0');
+            if (home > Integer.MAX_VALUE) {
+                return UNKNOWN;
+            }
+            digits++;
+        }
+        if (digits == 0 || i >= end || (text[i] != SEPARATOR && text[i] != '-')) {
+            return UNKNOWN;
+        }
+        i++;
+        long away = 0;
+        digits = 0;
+        while (i < end && text[i] >= '0' && text[i] <= '9') {
+            away = away * 10 + (text[i++] - '0');
+            if (away > Integer.MAX_VALUE) {
+                return UNKNOWN;
+            }
+            digits++;
+        }
+        if (digits == 0 || i != end) {
+            return UNKNOWN;
+        }
+        return pack((int) home, (int) away);
+    }
+
+    public static long parse(String text) {
+        return text == null ? UNKNOWN : parse(text.toCharArray(), 0, text.length());
+    }
+
+    /**
+     * Writes the {@code "h:a"} form into {@code buffer} (at least {@link #MAX_TEXT_LENGTH} long) and returns the length.
+     */
+    public static int format(long score, char[] buffer) {
+        int length = writeDigits(home(score), buffer, 0);
+        buffer[length++] = SEPARATOR;
+        return writeDigits(away(score), buffer, length);
+    }
+
+    public static String toString(long score) {
+        if (score == UNKNOWN) {
+            return null;
+        }
+        char[] buffer = new char[MAX_TEXT_LENGTH];
+        return new String(buffer, 0, format(score, buffer));
+    }
+
+    private static int writeDigits(int value, char[] buffer, int offset) {
+        int start = offset;
+        do {
+            buffer[offset++] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        // digits were written least significant first
+        for (int lo = start, hi = offset - 1; lo < hi; lo++, hi--) {
+            char tmp = buffer[lo];
+            buffer[lo] = buffer[hi];
+            buffer[hi] = tmp;
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,36 @@
+package com.sports.livesportstrackingsystem.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Reads an {@code "h:a"} score straight from the parser's character buffer into a packed {@link Score},
+ * returned as a boxed {@code Long} (see {@link Score}). Anything else is returned as its raw text so it can
+ * be published as received; objects and arrays are skipped and become {@code null}.
+ */
+public class ScoreJsonDeserializer extends StdDeserializer<Object> {
+
+    public ScoreJsonDeserializer() {
+        super(Object.class);
+    }
+
+    @Override
+    public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            long score = Score.parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            return score == Score.UNKNOWN ? parser.getText() : score;
+        }
+        if (token.isScalarValue()) {
+            // numbers and booleans, kept as text like the String field used to
+            return parser.getText();
+        }
+        // consume objects/arrays whole so the rest of the payload still decodes
+        parser.skipChildren();
+        return null;
+    }
+}
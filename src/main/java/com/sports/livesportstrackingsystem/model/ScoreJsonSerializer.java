@@ -0,0 +1,32 @@
+package com.sports.livesportstrackingsystem.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes a packed {@link Score} as its {@code "h:a"} text through a per-thread buffer, keeping the wire format unchanged,
+ * or an unparseable upstream score as the text it arrived with. The bean getter boxes packed scores before they reach
+ * this serializer (see {@link Score}).
+ */
+public class ScoreJsonSerializer extends StdSerializer<Object> {
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[Score.MAX_TEXT_LENGTH]);
+
+    public ScoreJsonSerializer() {
+        super(Object.class);
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value instanceof Long score && score != Score.UNKNOWN) {
+            char[] buffer = BUFFER.get();
+            generator.writeString(buffer, 0, Score.format(score, buffer));
+        } else if (value instanceof String rawScore) {
+            generator.writeString(rawScore);
+        } else {
+            generator.writeNull();
+        }
+    }
+}
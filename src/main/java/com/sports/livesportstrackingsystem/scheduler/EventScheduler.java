@@ -10,14 +10,16 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.time.Duration;
 
 @Slf4j
 @Component
 public class EventScheduler {
     private final ThreadPoolTaskScheduler taskScheduler;
-    private final ConcurrentHashMap<String, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, PollTask> scheduledTasks = new ConcurrentHashMap<>();
+    // last sequence seed handed out, in wall-clock millis x 1000
+    private final AtomicLong sequenceSeed = new AtomicLong();
     private final ExternalApiService externalApiServiceClient;
     private final KafkaProducerService kafkaProducerService;
 
@@ -42,27 +44,37 @@ public class EventScheduler {
     public void startScheduler(String eventId) {
         scheduledTasks.computeIfAbsent(eventId, k -> {
             log.info("Scheduling polling for eventId: {}", eventId);
-            return taskScheduler.scheduleAtFixedRate(() -> fetchAndSendEventData(eventId), Duration.ofSeconds(pollingIntervalSeconds));
+            // the fetch pipeline is assembled once here and resubscribed on every poll
+            PollTask task = new PollTask(eventId, nextSequenceSeed(), externalApiServiceClient.getEventScore(eventId), kafkaProducerService);
+            task.setFuture(taskScheduler.scheduleAtFixedRate(task, Duration.ofSeconds(pollingIntervalSeconds)));
+            return task;
         });
     }
 
     public void stopScheduler(String eventId) {
-        ScheduledFuture<?> future = scheduledTasks.remove(eventId);
-        if (future != null) {
-            future.cancel(true);
+        PollTask task = scheduledTasks.remove(eventId);
+        if (task != null) {
+            task.cancel();
             log.info("Polling stopped for event {}", eventId);
         }
     }
 
-    public void fetchAndSendEventData(String eventId) {
-        log.debug("Schedule event: {}", eventId);
-        externalApiServiceClient.getEventScore(eventId)
-            .doOnSuccess(eventExternalApi -> {
-                log.debug("Received API response for event {}: {}", eventId, eventExternalApi);
-                kafkaProducerService.sendMessage(eventExternalApi);
-            })
-            .doOnError(error -> log.error("Error polling event {}: {}", eventId, error.getMessage()))
-            .subscribe();
+    /**
+     * Seeds grow by 1000 per millisecond of wall clock and strictly increase per scheduler, while a task
+     * takes one sequence per poll interval (at least a second). So a restarted event always starts above
+     * everything its previous task published, even when restarted within the same millisecond.
+     */
+    private long nextSequenceSeed() {
+        return sequenceSeed.accumulateAndGet(System.currentTimeMillis() * 1000, (previous, now) -> Math.max(previous + 1, now));
+    }
+
+    /**
+     * Epoch millis of the last observed score change for the event (or of when polling started),
+     * 0 if the event is not being polled.
+     */
+    public long getLastScoreChangeAt(String eventId) {
+        PollTask task = scheduledTasks.get(eventId);
+        return task == null ? 0L : task.getLastScoreChangeAt();
     }
 
     @PreDestroy
@@ -0,0 +1,89 @@
+package com.sports.livesportstrackingsystem.scheduler;
+
+import com.sports.livesportstrackingsystem.kafka.KafkaProducerService;
+import com.sports.livesportstrackingsystem.model.EventExternalApiResponse;
+import com.sports.livesportstrackingsystem.model.Score;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Polling state for one live event. The reactive pipeline is assembled once when polling starts
+ * and resubscribed on every tick, so a poll only allocates what the HTTP exchange itself needs.
+ */
+@Slf4j
+class PollTask implements Runnable {
+    private final String eventId;
+    private final Mono<EventExternalApiResponse> fetch;
+    private final KafkaProducerService kafkaProducerService;
+    private final AtomicLong sequence;
+    private volatile ScheduledFuture<?> future;
+    // only written by the response callback, read by the expiry check
+    private volatile long lastScore = Score.UNKNOWN;
+    private volatile String lastRawScore;
+    private volatile long lastScoreChangeAt;
+
+    /**
+     * @param sequenceSeed the first poll publishes {@code sequenceSeed + 1}
+     */
+    PollTask(String eventId, long sequenceSeed, Mono<EventExternalApiResponse> fetch, KafkaProducerService kafkaProducerService) {
+        this.eventId = eventId;
+        this.fetch = fetch;
+        this.kafkaProducerService = kafkaProducerService;
+        this.sequence = new AtomicLong(sequenceSeed);
+        this.lastScoreChangeAt = System.currentTimeMillis();
+    }
+
+    @Override
+    public void run() {
+        // assigned at dispatch so consumers can detect polls that complete out of order
+        long pollSequence = sequence.incrementAndGet();
+        if (log.isDebugEnabled()) {
+            log.debug("Polling event {} (seq {})", eventId, pollSequence);
+        }
+        fetch.subscribe(response -> onResponse(response, pollSequence), this::onError);
+    }
+
+    private void onResponse(EventExternalApiResponse response, long pollSequence) {
+        long fetchedAt = System.currentTimeMillis();
+        if (log.isDebugEnabled()) {
+            log.debug("Received API response for event {} (seq {}): {}", eventId, pollSequence, response);
+        }
+        long score = response.getScore();
+        if (score != Score.UNKNOWN) {
+            if (score != lastScore) {
+                lastScore = score;
+                lastRawScore = null;
+                lastScoreChangeAt = fetchedAt;
+            }
+        } else if (response.getRawScore() != null && !response.getRawScore().equals(lastRawScore)) {
+            // still counts as activity, logged once per distinct value rather than on every poll
+            log.warn("Unparseable score for event {}: '{}', publishing it as received", eventId, response.getRawScore());
+            lastScore = Score.UNKNOWN;
+            lastRawScore = response.getRawScore();
+            lastScoreChangeAt = fetchedAt;
+        }
+        kafkaProducerService.sendMessage(response, pollSequence, fetchedAt);
+    }
+
+    private void onError(Throwable error) {
+        log.error("Error polling event {}: {}", eventId, error.getMessage());
+    }
+
+    long getLastScoreChangeAt() {
+        return lastScoreChangeAt;
+    }
+
+    void setFuture(ScheduledFuture<?> future) {
+        this.future = future;
+    }
+
+    void cancel() {
+        ScheduledFuture<?> scheduled = future;
+        if (scheduled != null) {
+            scheduled.cancel(true);
+        }
+    }
+}
@@ -1,54 +1,116 @@
 package com.sports.livesportstrackingsystem.service;
 
+import com.sports.livesportstrackingsystem.config.LiveEventProperties;
+import com.sports.livesportstrackingsystem.exception.LiveEventLimitException;
 import com.sports.livesportstrackingsystem.model.Event;
 import com.sports.livesportstrackingsystem.model.EventStatus;
 import com.sports.livesportstrackingsystem.model.EventStatusRequest;
 import com.sports.livesportstrackingsystem.scheduler.EventScheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
 public class EventService {
-    private final Map<String, Event> liveEvents = new ConcurrentHashMap<>();
+    enum RemovalReason {
+        IDLE, LIFETIME, EVICTED
+    }
+
+    // per-event transitions run inside compute(), so start/stop for one event never interleave
+    private final Map<String, LiveEvent> liveEvents = new ConcurrentHashMap<>();
+    // eviction candidates, least recently active first; guarded by its own monitor, never held while starting or stopping polling
+    private final LinkedHashMap<String, LiveEvent> evictionOrder = new LinkedHashMap<>();
+    private final AtomicInteger liveCount = new AtomicInteger();
     private final EventScheduler eventScheduler;
+    private final LiveEventProperties properties;
+    // one bucketed timeout per event: O(1) to arm, cancel and fire, no periodic scans
+    private final HashedWheelTimer expiryTimer;
+    private final Map<RemovalReason, Counter> removedCounters = new EnumMap<>(RemovalReason.class);
+    private final Counter rejectedCounter;
 
-    public EventService(EventScheduler eventScheduler) {
+    public EventService(EventScheduler eventScheduler, LiveEventProperties properties, MeterRegistry meterRegistry) {
         this.eventScheduler = eventScheduler;
+        this.properties = properties;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("event-expiry-");
+        threadFactory.setDaemon(true);
+        this.expiryTimer = new HashedWheelTimer(threadFactory, properties.getExpiryTick().toMillis(), TimeUnit.MILLISECONDS);
+
+        Gauge.builder("events.live", liveCount, AtomicInteger::get)
+                .description("Events currently being polled")
+                .register(meterRegistry);
+        for (RemovalReason reason : RemovalReason.values()) {
+            removedCounters.put(reason, Counter.builder("events.expired")
+                    .description("Live events removed without a NOT_LIVE status")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.rejectedCounter = Counter.builder("events.rejected")
+                .description("LIVE events refused because the live-event cap was reached")
+                .register(meterRegistry);
     }
+
     public void updateStatusEvent(EventStatusRequest request) {
         String eventId = request.getEventId();
         EventStatus newStatus  = request.getStatus();
         log.info("Received status update for eventId: {}, newStatus: {}", eventId, newStatus);
 
-        Event currentEvent = liveEvents.get(eventId);
-
         if (newStatus == EventStatus.LIVE) {
-            if (currentEvent == null || currentEvent.getStatus() == EventStatus.NOT_LIVE) {
-                // event transition to LIVE or new event -> LIVE
-                Event newEvent = Event.builder()
-                        .eventId(eventId)
-                        .status(EventStatus.LIVE)
-                        .lastUpdated(System.currentTimeMillis())
-                        .build();
-
-                liveEvents.put(eventId, newEvent);
-                eventScheduler.startScheduler(eventId);
-                log.debug("Event {} marked as LIVE and start polling.", eventId);
-            } else {
-                // already Live -> update timestamp
-                currentEvent.setLastUpdated(System.currentTimeMillis());
+            // already Live -> update timestamp
+            if (liveEvents.computeIfPresent(eventId, (id, current) -> refresh(current)) != null) {
                 log.debug("Event {} was already LIVE. Updating timestamp.", eventId);
+                return;
+            }
+            reserveSlot(eventId);
+
+            // event transition to LIVE or new event -> LIVE
+            long now = System.currentTimeMillis();
+            LiveEvent candidate = new LiveEvent(Event.builder()
+                    .eventId(eventId)
+                    .status(EventStatus.LIVE)
+                    .lastUpdated(now)
+                    .startedAt(now)
+                    .build(), now);
+            LiveEvent result;
+            try {
+                result = liveEvents.compute(eventId, (id, current) -> current != null ? refresh(current) : start(candidate));
+            } catch (RuntimeException e) {
+                // polling could not be started, no mapping was created so give the slot back
+                liveCount.decrementAndGet();
+                throw e;
+            }
+            if (result != candidate) {
+                // a concurrent LIVE for the same event won the race
+                liveCount.decrementAndGet();
+                log.debug("Event {} was already LIVE. Updating timestamp.", eventId);
+            } else {
+                enqueue(candidate);
+                log.debug("Event {} marked as LIVE and start polling.", eventId);
             }
         } else {
-            if (currentEvent != null && currentEvent.getStatus() == EventStatus.LIVE) {
-                // event transition to NOT_LIVE
-                liveEvents.remove(eventId);
-                eventScheduler.stopScheduler(eventId);
+            // event transition to NOT_LIVE
+            boolean[] stopped = {false};
+            liveEvents.computeIfPresent(eventId, (id, current) -> {
+                stop(current);
+                stopped[0] = true;
+                return null;
+            });
+            if (stopped[0]) {
                 log.debug("Event {} marked as NOT_LIVE and polling stopped.", eventId);
             } else {
                 log.debug("Event {} was already NOT_LIVE or not found. No action taken.", eventId);
@@ -58,6 +120,184 @@ public class EventService {
 
     // used for testing
     public Optional<Event> getEvent(String eventId) {
-        return Optional.ofNullable(liveEvents.get(eventId));
+        LiveEvent liveEvent = liveEvents.get(eventId);
+        return Optional.ofNullable(liveEvent == null ? null : liveEvent.event);
+    }
+
+    @PreDestroy
+    public void shutDown() {
+        expiryTimer.stop();
+        log.info("Event expiry timer stopped.");
+    }
+
+    // takes one of the maxLive slots, evicting or rejecting when none is free
+    private void reserveSlot(String eventId) {
+        while (true) {
+            int count = liveCount.get();
+            if (count < properties.getMaxLive()) {
+                if (liveCount.compareAndSet(count, count + 1)) {
+                    return;
+                }
+                continue;
+            }
+            if (properties.getEvictionPolicy() == LiveEventProperties.EvictionPolicy.REJECT_NEW) {
+                rejectedCounter.increment();
+                throw new LiveEventLimitException(eventId, properties.getMaxLive());
+            }
+            LiveEvent victim = leastRecentlyActive();
+            if (victim == null) {
+                // every slot is reserved by an event that is still being started
+                rejectedCounter.increment();
+                throw new LiveEventLimitException(eventId, properties.getMaxLive());
+            }
+            remove(victim, RemovalReason.EVICTED);
+        }
+    }
+
+    /**
+     * Head of the eviction order once score activity is taken into account. Score changes happen in the
+     * scheduler, so an entry reaching the head is re-checked and moved back if it scored since it was queued;
+     * each score change costs at most one such move.
+     */
+    private LiveEvent leastRecentlyActive() {
+        synchronized (evictionOrder) {
+            for (int checked = 0, size = evictionOrder.size(); checked < size; checked++) {
+                LiveEvent head = evictionOrder.values().iterator().next();
+                if (liveEvents.get(head.event.getEventId()) != head) {
+                    // already stopped or replaced, nothing left to evict
+                    evictionOrder.remove(head.event.getEventId());
+                    continue;
+                }
+                long lastActivity = lastActivity(head.event);
+                if (lastActivity <= head.queuedActivity) {
+                    return head;
+                }
+                head.queuedActivity = lastActivity;
+                evictionOrder.remove(head.event.getEventId());
+                evictionOrder.put(head.event.getEventId(), head);
+            }
+            // every entry was active since it was queued, the head is now the least recent
+            Iterator<LiveEvent> eldest = evictionOrder.values().iterator();
+            return eldest.hasNext() ? eldest.next() : null;
+        }
+    }
+
+    private void checkExpiry(LiveEvent liveEvent) {
+        String eventId = liveEvent.event.getEventId();
+        liveEvents.computeIfPresent(eventId, (id, current) -> {
+            if (current != liveEvent) {
+                // stopped and restarted since this timeout was armed
+                return current;
+            }
+            Event event = liveEvent.event;
+            long now = System.currentTimeMillis();
+            if (now >= event.getStartedAt() + properties.getMaxLifetime().toMillis()) {
+                expire(liveEvent, RemovalReason.LIFETIME);
+                return null;
+            }
+            if (now >= lastActivity(event) + properties.getIdleTtl().toMillis()) {
+                expire(liveEvent, RemovalReason.IDLE);
+                return null;
+            }
+            // activity moved the idle deadline, re-arm once instead of on every refresh or score change
+            arm(liveEvent, nextDeadline(event, now) - now);
+            return current;
+        });
+    }
+
+    // queued only once the mapping exists, so an entry without one is always stale
+    private void enqueue(LiveEvent liveEvent) {
+        synchronized (evictionOrder) {
+            if (liveEvents.get(liveEvent.event.getEventId()) == liveEvent) {
+                evictionOrder.put(liveEvent.event.getEventId(), liveEvent);
+            }
+        }
+    }
+
+    private void remove(LiveEvent liveEvent, RemovalReason reason) {
+        liveEvents.computeIfPresent(liveEvent.event.getEventId(), (id, current) -> {
+            if (current != liveEvent) {
+                return current;
+            }
+            expire(liveEvent, reason);
+            return null;
+        });
+    }
+
+    // the following run inside liveEvents.compute* for the event's key
+
+    private LiveEvent start(LiveEvent liveEvent) {
+        String eventId = liveEvent.event.getEventId();
+        eventScheduler.startScheduler(eventId);
+        try {
+            arm(liveEvent, Math.min(properties.getIdleTtl().toMillis(), properties.getMaxLifetime().toMillis()));
+        } catch (RuntimeException e) {
+            // timer already stopped, don't leave polling running for an event that is not registered
+            eventScheduler.stopScheduler(eventId);
+            throw e;
+        }
+        return liveEvent;
+    }
+
+    private LiveEvent refresh(LiveEvent liveEvent) {
+        long now = System.currentTimeMillis();
+        liveEvent.event.setLastUpdated(now);
+        synchronized (evictionOrder) {
+            // move to the most recently active end
+            liveEvent.queuedActivity = now;
+            evictionOrder.remove(liveEvent.event.getEventId());
+            evictionOrder.put(liveEvent.event.getEventId(), liveEvent);
+        }
+        return liveEvent;
+    }
+
+    private void stop(LiveEvent liveEvent) {
+        String eventId = liveEvent.event.getEventId();
+        synchronized (evictionOrder) {
+            evictionOrder.remove(eventId);
+        }
+        liveCount.decrementAndGet();
+        liveEvent.cancelExpiry();
+        eventScheduler.stopScheduler(eventId);
+    }
+
+    private void expire(LiveEvent liveEvent, RemovalReason reason) {
+        stop(liveEvent);
+        removedCounters.get(reason).increment();
+        log.info("Event {} removed without NOT_LIVE ({}), polling stopped.", liveEvent.event.getEventId(), reason);
+    }
+
+    private long nextDeadline(Event event, long now) {
+        long lifetimeDeadline = event.getStartedAt() + properties.getMaxLifetime().toMillis();
+        long idleDeadline = lastActivity(event) + properties.getIdleTtl().toMillis();
+        return Math.max(now, Math.min(lifetimeDeadline, idleDeadline));
+    }
+
+    // a status refresh or a score change both count as activity
+    private long lastActivity(Event event) {
+        return Math.max(event.getLastUpdated(), eventScheduler.getLastScoreChangeAt(event.getEventId()));
+    }
+
+    private void arm(LiveEvent liveEvent, long delayMillis) {
+        liveEvent.expiry = expiryTimer.newTimeout(timeout -> checkExpiry(liveEvent), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static final class LiveEvent {
+        private final Event event;
+        // activity time the entry was queued with in evictionOrder, guarded by evictionOrder
+        private long queuedActivity;
+        private volatile Timeout expiry;
+
+        LiveEvent(Event event, long queuedActivity) {
+            this.event = event;
+            this.queuedActivity = queuedActivity;
+        }
+
+        void cancelExpiry() {
+            Timeout scheduled = expiry;
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+        }
     }
 }
@@ -0,0 +1,105 @@
+package com.sports.livesportstrackingsystem.tracing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Keeps a sliding window of the most recent latency samples for each stage of the
+ * poll-to-publish path and reports their percentiles.
+ */
+@Slf4j
+@Component
+public class FreshnessSampler {
+
+    public enum Stage {
+        // upstream timestamp -> external API response received
+        UPSTREAM_TO_FETCH,
+        // external API response received -> record handed to Kafka
+        FETCH_TO_SEND,
+        // upstream timestamp -> record handed to Kafka
+        UPSTREAM_TO_SEND
+    }
+
+    // returned by percentile() while a stage has no samples
+    public static final long NO_SAMPLES = -1L;
+
+    private static final double[] REPORTED_PERCENTILES = {50, 90, 99};
+
+    private final Map<Stage, Window> windows = new EnumMap<>(Stage.class);
+
+    public FreshnessSampler(@Value("${app.tracing.sample-size:1024}") int sampleSize) {
+        if (sampleSize <= 0) {
+            throw new IllegalArgumentException("app.tracing.sample-size must be positive: " + sampleSize);
+        }
+        for (Stage stage : Stage.values()) {
+            windows.put(stage, new Window(sampleSize));
+        }
+    }
+
+    public void record(Stage stage, long latencyMillis) {
+        // clock skew against upstream can produce negative values, clamp rather than drop
+        windows.get(stage).add(Math.max(0L, latencyMillis));
+    }
+
+    /**
+     * Nearest-rank percentile over the current window, or {@link #NO_SAMPLES} if no samples yet.
+     */
+    public long percentile(Stage stage, double percentile) {
+        long[] sorted = windows.get(stage).sortedSnapshot();
+        return sorted.length == 0 ? NO_SAMPLES : nearestRank(sorted, percentile);
+    }
+
+    @Scheduled(fixedDelayString = "${app.tracing.report.interval.ms:60000}")
+    public void report() {
+        for (Stage stage : Stage.values()) {
+            long[] sorted = windows.get(stage).sortedSnapshot();
+            if (sorted.length == 0) {
+                continue;
+            }
+            StringBuilder line = new StringBuilder();
+            for (double p : REPORTED_PERCENTILES) {
+                line.append(" p").append((int) p).append('=').append(nearestRank(sorted, p)).append("ms");
+            }
+            log.info("Freshness {} over {} samples:{}", stage, sorted.length, line);
+        }
+    }
+
+    // sorted must not be empty
+    private static long nearestRank(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.min(Math.max(rank, 1), sorted.length) - 1];
+    }
+
+    private static final class Window {
+        private final long[] samples;
+        private int next;
+        private int size;
+
+        Window(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        synchronized void add(long value) {
+            samples[next] = value;
+            next = (next + 1) % samples.length;
+            if (size < samples.length) {
+                size++;
+            }
+        }
+
+        long[] sortedSnapshot() {
+            long[] copy;
+            synchronized (this) {
+                copy = Arrays.copyOf(samples, size);
+            }
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.sports.livesportstrackingsystem.tracing;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Kafka header names and codec for the freshness trace attached to every published record.
+ * Values are 8-byte big-endian longs so consumers can read them without parsing the payload.
+ */
+public final class TraceHeaders {
+    // per-event poll sequence, increases monotonically even across polling restarts
+    public static final String SEQUENCE = "x-seq";
+    // timestamp reported by the upstream API (only present when upstream sends one)
+    public static final String UPSTREAM_TS = "x-ts-upstream";
+    // when the external API response was received
+    public static final String FETCHED_TS = "x-ts-fetched";
+    // when the record was handed to the Kafka producer
+    public static final String SENT_TS = "x-ts-sent";
+
+    public static final long ABSENT = -1L;
+
+    private TraceHeaders() {
+    }
+
+    public static void writeLong(Headers headers, String key, long value) {
+        headers.add(key, ByteBuffer.allocate(Long.BYTES).putLong(value).array());
+    }
+
+    public static long readLong(Headers headers, String key) {
+        Header header = headers.lastHeader(key);
+        if (header == null || header.value() == null || header.value().length != Long.BYTES) {
+            return ABSENT;
+        }
+        return ByteBuffer.wrap(header.value()).getLong();
+    }
+}
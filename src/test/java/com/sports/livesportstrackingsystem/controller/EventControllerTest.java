@@ -0,0 +1,51 @@
+package com.sports.livesportstrackingsystem.controller;
+
+import com.sports.livesportstrackingsystem.exception.LiveEventLimitException;
+import com.sports.livesportstrackingsystem.model.EventStatusRequest;
+import com.sports.livesportstrackingsystem.service.EventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EventController.class)
+public class EventControllerTest {
+    private static final String LIVE_REQUEST = "{\"eventId\":\"event123\",\"status\":\"LIVE\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private EventService eventService;
+
+    @Test
+    void testUpdateEventStatus_Success() throws Exception {
+        mockMvc.perform(post("/events/status").contentType(MediaType.APPLICATION_JSON).content(LIVE_REQUEST))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Event status updated successfully for event: event123"));
+    }
+
+    @Test
+    void testUpdateEventStatus_LiveEventLimitReached_ReturnsServiceUnavailable() throws Exception {
+        doThrow(new LiveEventLimitException("event123", 1)).when(eventService).updateStatusEvent(any(EventStatusRequest.class));
+
+        mockMvc.perform(post("/events/status").contentType(MediaType.APPLICATION_JSON).content(LIVE_REQUEST))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(content().string("Live event limit of 1 reached, event event123 is not being tracked."));
+    }
+
+    @Test
+    void testUpdateEventStatus_UnexpectedError_ReturnsInternalServerError() throws Exception {
+        doThrow(new IllegalStateException("boom")).when(eventService).updateStatusEvent(any(EventStatusRequest.class));
+
+        mockMvc.perform(post("/events/status").contentType(MediaType.APPLICATION_JSON).content(LIVE_REQUEST))
+                .andExpect(status().isInternalServerError());
+    }
+}
@@ -1,6 +1,10 @@
 package com.sports.livesportstrackingsystem.kafka;
 
 import com.sports.livesportstrackingsystem.model.EventExternalApiResponse;
+import com.sports.livesportstrackingsystem.model.Score;
+import com.sports.livesportstrackingsystem.tracing.FreshnessSampler;
+import com.sports.livesportstrackingsystem.tracing.TraceHeaders;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -22,12 +26,15 @@ public class KafkaProducerServiceTest {
 
     private KafkaProducerService kafkaProducerService;
 
+    private FreshnessSampler freshnessSampler;
+
     private static final String TEST_TOPIC = "event-updates-topic";
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        kafkaProducerService = new KafkaProducerService(kafkaTemplate);
+        freshnessSampler = new FreshnessSampler(16);
+        kafkaProducerService = new KafkaProducerService(kafkaTemplate, freshnessSampler);
         try {
             Field field = KafkaProducerService.class.getDeclaredField("topic");
             field.setAccessible(true);
@@ -39,56 +46,87 @@ public class KafkaProducerServiceTest {
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void testSendMessageSuccess() {
         EventExternalApiResponse eventExternalApiResponse = new EventExternalApiResponse();
         eventExternalApiResponse.setEventId("event123");
-        eventExternalApiResponse.setCurrentScore("2-1");
+        eventExternalApiResponse.setScore(Score.pack(2, 1));
 
-        ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<EventExternalApiResponse> messageCaptor = ArgumentCaptor.forClass(EventExternalApiResponse.class);
+        ArgumentCaptor<ProducerRecord<String, EventExternalApiResponse>> recordCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
 
         long startTime = Instant.now().toEpochMilli();
 
         // Act
-        kafkaProducerService.sendMessage(eventExternalApiResponse);
+        kafkaProducerService.sendMessage(eventExternalApiResponse, 7L, startTime);
 
         // Assert
-        // Verify that kafkaTemplate.send was called exactly once with the correct arguments
-        verify(kafkaTemplate, times(1)).send(topicCaptor.capture(), keyCaptor.capture(), messageCaptor.capture());
+        // Verify that kafkaTemplate.send was called exactly once
+        verify(kafkaTemplate, times(1)).send(recordCaptor.capture());
+        ProducerRecord<String, EventExternalApiResponse> record = recordCaptor.getValue();
 
         // Assert Topic
-        assertEquals(TEST_TOPIC, topicCaptor.getValue(), "Kafka topic should match configured value");
+        assertEquals(TEST_TOPIC, record.topic(), "Kafka topic should match configured value");
 
         // Assert Key
-        assertEquals("event123", keyCaptor.getValue(), "Kafka key should be the eventId");
+        assertEquals("event123", record.key(), "Kafka key should be the eventId");
 
         // Assert Message content
-        EventExternalApiResponse capturedMessage = messageCaptor.getValue();
-        assertEquals("2-1", capturedMessage.getCurrentScore(), "Captured message score should match");
+        EventExternalApiResponse capturedMessage = record.value();
+        assertEquals(Score.pack(2, 1), capturedMessage.getScore(), "Captured message score should match");
         assertEquals("event123", capturedMessage.getEventId(), "Captured message eventId should match");
 
         // Assert Timestamp (generated within the method)
         assertTrue(capturedMessage.getTimestamp() >= startTime, "Timestamp should be after test start");
         assertTrue(capturedMessage.getTimestamp() <= Instant.now().toEpochMilli() + 100, "Timestamp should be around current time (+100ms buffer)");
+
+        // Assert trace headers, upstream is absent because the response carried no timestamp
+        assertEquals(7L, TraceHeaders.readLong(record.headers(), TraceHeaders.SEQUENCE));
+        assertEquals(startTime, TraceHeaders.readLong(record.headers(), TraceHeaders.FETCHED_TS));
+        assertEquals(capturedMessage.getTimestamp(), TraceHeaders.readLong(record.headers(), TraceHeaders.SENT_TS));
+        assertEquals(TraceHeaders.ABSENT, TraceHeaders.readLong(record.headers(), TraceHeaders.UPSTREAM_TS));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSendMessagePreservesUpstreamTimestamp() {
+        long upstream = Instant.now().toEpochMilli() - 500;
+        EventExternalApiResponse eventExternalApiResponse = EventExternalApiResponse.builder()
+                .eventId("event789")
+                .score(Score.pack(3, 3))
+                .timestamp(upstream)
+                .build();
+
+        ArgumentCaptor<ProducerRecord<String, EventExternalApiResponse>> recordCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+
+        // Act
+        kafkaProducerService.sendMessage(eventExternalApiResponse, 1L, upstream + 200);
+
+        // Assert
+        verify(kafkaTemplate, times(1)).send(recordCaptor.capture());
+        assertEquals(upstream, TraceHeaders.readLong(recordCaptor.getValue().headers(), TraceHeaders.UPSTREAM_TS));
+        assertEquals(200L, freshnessSampler.percentile(FreshnessSampler.Stage.UPSTREAM_TO_FETCH, 50));
+        assertTrue(freshnessSampler.percentile(FreshnessSampler.Stage.UPSTREAM_TO_SEND, 50) >= 500, "End-to-end latency should cover the upstream age");
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void testSendMessageFailure() {
         EventExternalApiResponse eventExternalApiResponse = new EventExternalApiResponse();
         eventExternalApiResponse.setEventId("event456");
-        eventExternalApiResponse.setCurrentScore("1-0");
+        eventExternalApiResponse.setScore(Score.pack(1, 0));
 
-        doThrow(new RuntimeException("Simulated synchronous Kafka error")).when(kafkaTemplate).send(anyString(), anyString(), any(EventExternalApiResponse.class));
+        doThrow(new RuntimeException("Simulated synchronous Kafka error")).when(kafkaTemplate).send(any(ProducerRecord.class));
 
         // Act & Assert
         RuntimeException thrown = org.junit.jupiter.api.Assertions.assertThrows(RuntimeException.class, () -> {
-            kafkaProducerService.sendMessage(eventExternalApiResponse);
+            kafkaProducerService.sendMessage(eventExternalApiResponse, 1L, Instant.now().toEpochMilli());
         });
 
         assertEquals("Simulated synchronous Kafka error", thrown.getMessage());
 
         // Verify that send was attempted
-        verify(kafkaTemplate, times(1)).send(anyString(), eq("event456"), any(EventExternalApiResponse.class));
+        ArgumentCaptor<ProducerRecord<String, EventExternalApiResponse>> recordCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(1)).send(recordCaptor.capture());
+        assertEquals("event456", recordCaptor.getValue().key());
     }
 }
@@ -0,0 +1,115 @@
+package com.sports.livesportstrackingsystem.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScoreTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testPack_RoundTripsComponents() {
+        long score = Score.pack(3, 12);
+
+        assertEquals(3, Score.home(score));
+        assertEquals(12, Score.away(score));
+        assertNotEquals(Score.UNKNOWN, score);
+        assertEquals(Integer.MAX_VALUE, Score.away(Score.pack(0, Integer.MAX_VALUE)));
+    }
+
+    @Test
+    void testPack_RejectsNegativeComponents() {
+        assertThrows(IllegalArgumentException.class, () -> Score.pack(-1, 0));
+    }
+
+    @Test
+    void testParse_AcceptsBothSeparators() {
+        assertEquals(Score.pack(2, 1), Score.parse("2:1"));
+        assertEquals(Score.pack(10, 0), Score.parse("10-0"));
+    }
+
+    @Test
+    void testParse_MalformedReturnsUnknown() {
+        assertEquals(Score.UNKNOWN, Score.parse((String) null));
+        assertEquals(Score.UNKNOWN, Score.parse(""));
+        assertEquals(Score.UNKNOWN, Score.parse("2:"));
+        assertEquals(Score.UNKNOWN, Score.parse(":1"));
+        assertEquals(Score.UNKNOWN, Score.parse("2:1 "));
+        assertEquals(Score.UNKNOWN, Score.parse("a:b"));
+        assertEquals(Score.UNKNOWN, Score.parse("99999999999:1"));
+    }
+
+    @Test
+    void testToString_FormatsHomeAndAway() {
+        assertEquals("0:0", Score.toString(Score.pack(0, 0)));
+        assertEquals("105:98", Score.toString(Score.pack(105, 98)));
+        assertNull(Score.toString(Score.UNKNOWN));
+    }
+
+    @Test
+    void testJson_KeepsCurrentScoreWireFormat() throws Exception {
+        EventExternalApiResponse response = EventExternalApiResponse.builder()
+                .eventId("event123")
+                .score(Score.pack(2, 1))
+                .timestamp(42L)
+                .build();
+
+        String json = objectMapper.writeValueAsString(response);
+        assertTrue(json.contains("\"currentScore\":\"2:1\""), "Score should be serialized as h:a text: " + json);
+
+        EventExternalApiResponse decoded = objectMapper.readValue(json, EventExternalApiResponse.class);
+        assertEquals(response, decoded);
+    }
+
+    @Test
+    void testJson_MissingOrMalformedScoreIsUnknown() throws Exception {
+        EventExternalApiResponse missing = objectMapper.readValue("{\"eventId\":\"e1\"}", EventExternalApiResponse.class);
+        EventExternalApiResponse nullScore = objectMapper.readValue("{\"eventId\":\"e1\",\"currentScore\":null}", EventExternalApiResponse.class);
+        EventExternalApiResponse malformed = objectMapper.readValue("{\"eventId\":\"e1\",\"currentScore\":\"n/a\"}", EventExternalApiResponse.class);
+
+        assertEquals(Score.UNKNOWN, missing.getScore());
+        assertEquals(Score.UNKNOWN, nullScore.getScore());
+        assertEquals(Score.UNKNOWN, malformed.getScore());
+        assertNull(missing.getRawScore());
+        assertNull(nullScore.getRawScore());
+        assertTrue(objectMapper.writeValueAsString(missing).contains("\"currentScore\":null"));
+    }
+
+    @Test
+    void testJson_UnparseableScoreIsPublishedAsReceived() throws Exception {
+        EventExternalApiResponse text = objectMapper.readValue("{\"eventId\":\"e1\",\"currentScore\":\"n/a\"}", EventExternalApiResponse.class);
+        EventExternalApiResponse number = objectMapper.readValue("{\"eventId\":\"e1\",\"currentScore\":3}", EventExternalApiResponse.class);
+
+        assertEquals("n/a", text.getRawScore());
+        assertTrue(objectMapper.writeValueAsString(text).contains("\"currentScore\":\"n/a\""));
+        assertEquals(Score.UNKNOWN, number.getScore());
+        assertEquals("3", number.getRawScore());
+    }
+
+    @Test
+    void testJson_DashSeparatorIsPublishedWithColon() throws Exception {
+        EventExternalApiResponse dashed = objectMapper.readValue("{\"eventId\":\"e1\",\"currentScore\":\"2-1\"}", EventExternalApiResponse.class);
+
+        assertEquals(Score.pack(2, 1), dashed.getScore());
+        assertNull(dashed.getRawScore());
+        assertTrue(objectMapper.writeValueAsString(dashed).contains("\"currentScore\":\"2:1\""));
+    }
+
+    @Test
+    void testJson_StructuredScoreIsSkippedWithoutBreakingLaterFields() throws Exception {
+        EventExternalApiResponse fromObject = objectMapper.readValue(
+                "{\"eventId\":\"e1\",\"currentScore\":{\"h\":1},\"timestamp\":42}", EventExternalApiResponse.class);
+        EventExternalApiResponse fromArray = objectMapper.readValue(
+                "{\"currentScore\":[1,[0]],\"eventId\":\"e2\",\"timestamp\":7}", EventExternalApiResponse.class);
+
+        assertEquals(Score.UNKNOWN, fromObject.getScore());
+        assertNull(fromObject.getRawScore());
+        assertEquals("e1", fromObject.getEventId());
+        assertEquals(42L, fromObject.getTimestamp());
+        assertEquals(Score.UNKNOWN, fromArray.getScore());
+        assertEquals("e2", fromArray.getEventId());
+        assertEquals(7L, fromArray.getTimestamp());
+    }
+}
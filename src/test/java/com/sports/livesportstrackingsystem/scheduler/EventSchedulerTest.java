@@ -0,0 +1,79 @@
+package com.sports.livesportstrackingsystem.scheduler;
+
+import com.sports.livesportstrackingsystem.external.ExternalApiService;
+import com.sports.livesportstrackingsystem.kafka.KafkaProducerService;
+import com.sports.livesportstrackingsystem.model.EventExternalApiResponse;
+import com.sports.livesportstrackingsystem.model.Score;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class EventSchedulerTest {
+
+    @Mock
+    private ExternalApiService externalApiService;
+    @Mock
+    private KafkaProducerService kafkaProducerService;
+
+    private EventScheduler eventScheduler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(externalApiService.getEventScore(anyString())).thenAnswer(invocation -> Mono.just(EventExternalApiResponse.builder()
+                .eventId(invocation.getArgument(0))
+                .score(Score.pack(1, 0))
+                .build()));
+        eventScheduler = new EventScheduler(externalApiService, kafkaProducerService);
+        // only the immediate first poll runs during a test
+        ReflectionTestUtils.setField(eventScheduler, "pollingIntervalSeconds", 3600L);
+        eventScheduler.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventScheduler.shutDown();
+    }
+
+    @Test
+    void testRestartedPolling_StartsAbovePreviouslyPublishedSequence() {
+        ArgumentCaptor<Long> sequenceCaptor = ArgumentCaptor.forClass(Long.class);
+
+        eventScheduler.startScheduler("event123");
+        verify(kafkaProducerService, timeout(1000).times(1)).sendMessage(any(EventExternalApiResponse.class), anyLong(), anyLong());
+
+        // Act - restart straight away, typically within the same millisecond
+        eventScheduler.stopScheduler("event123");
+        eventScheduler.startScheduler("event123");
+
+        // Assert
+        verify(kafkaProducerService, timeout(1000).times(2)).sendMessage(any(EventExternalApiResponse.class), sequenceCaptor.capture(), anyLong());
+        List<Long> sequences = sequenceCaptor.getAllValues();
+        assertTrue(sequences.get(1) > sequences.get(0), "Restarted polling should publish above the previous sequence: " + sequences);
+    }
+
+    @Test
+    void testSequenceSeeds_IncreaseAcrossRapidRestarts() {
+        for (int i = 0; i < 50; i++) {
+            eventScheduler.startScheduler("event123");
+            eventScheduler.stopScheduler("event123");
+        }
+        eventScheduler.startScheduler("event123");
+
+        ArgumentCaptor<Long> sequenceCaptor = ArgumentCaptor.forClass(Long.class);
+        // a cancelled task may or may not have polled, but whatever was published must be unique
+        verify(kafkaProducerService, timeout(1000).atLeastOnce()).sendMessage(any(EventExternalApiResponse.class), sequenceCaptor.capture(), anyLong());
+        List<Long> sequences = sequenceCaptor.getAllValues().stream().sorted().distinct().toList();
+        assertEquals(sequenceCaptor.getAllValues().size(), sequences.size(), "Sequences should never repeat across restarts");
+    }
+}
@@ -0,0 +1,108 @@
+package com.sports.livesportstrackingsystem.scheduler;
+
+import com.sports.livesportstrackingsystem.kafka.KafkaProducerService;
+import com.sports.livesportstrackingsystem.model.EventExternalApiResponse;
+import com.sports.livesportstrackingsystem.model.Score;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class PollTaskTest {
+
+    private static final long SEED = 1_700_000_000_000_000L;
+
+    @Mock
+    private KafkaProducerService kafkaProducerService;
+
+    // score returned by the stubbed pipeline on the next poll
+    private final AtomicLong nextScore = new AtomicLong(Score.UNKNOWN);
+    private final AtomicReference<String> nextRawScore = new AtomicReference<>();
+
+    private PollTask pollTask;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        Mono<EventExternalApiResponse> fetch = Mono.fromSupplier(() -> EventExternalApiResponse.builder()
+                .eventId("event123")
+                .score(nextScore.get())
+                .rawScore(nextRawScore.get())
+                .build());
+        pollTask = new PollTask("event123", SEED, fetch, kafkaProducerService);
+    }
+
+    private long pollWithScore(long score) throws InterruptedException {
+        // keep successive polls on distinct milliseconds
+        Thread.sleep(5);
+        nextScore.set(score);
+        pollTask.run();
+        return pollTask.getLastScoreChangeAt();
+    }
+
+    @Test
+    void testScoreChange_MovesLastScoreChangeForward() throws InterruptedException {
+        long started = pollTask.getLastScoreChangeAt();
+
+        long firstScore = pollWithScore(Score.pack(0, 0));
+        long secondScore = pollWithScore(Score.pack(1, 0));
+
+        assertTrue(firstScore > started, "First known score should count as a change");
+        assertTrue(secondScore > firstScore, "A new score should move the last change forward");
+    }
+
+    @Test
+    void testRepeatedScore_LeavesLastScoreChangeUnchanged() throws InterruptedException {
+        long changed = pollWithScore(Score.pack(2, 1));
+
+        assertEquals(changed, pollWithScore(Score.pack(2, 1)), "Same score should not count as activity");
+    }
+
+    @Test
+    void testUnknownScore_LeavesLastScoreChangeUnchanged() throws InterruptedException {
+        long started = pollTask.getLastScoreChangeAt();
+        assertEquals(started, pollWithScore(Score.UNKNOWN), "Unknown score should not count as activity");
+
+        long changed = pollWithScore(Score.pack(1, 1));
+        assertEquals(changed, pollWithScore(Score.UNKNOWN), "Unknown score after a known one should not count as activity");
+        // and the known score coming back is not a change either
+        assertEquals(changed, pollWithScore(Score.pack(1, 1)));
+    }
+
+    @Test
+    void testUnparseableScore_CountsAsActivityWhenItChanges() throws InterruptedException {
+        long known = pollWithScore(Score.pack(1, 0));
+
+        nextRawScore.set("HT");
+        long firstRaw = pollWithScore(Score.UNKNOWN);
+        assertTrue(firstRaw > known, "Unparseable score replacing a known one should count as activity");
+        assertEquals(firstRaw, pollWithScore(Score.UNKNOWN), "Same unparseable score should not count as activity");
+
+        nextRawScore.set("FT");
+        long secondRaw = pollWithScore(Score.UNKNOWN);
+        assertTrue(secondRaw > firstRaw, "A different unparseable score should count as activity");
+
+        nextRawScore.set(null);
+        assertTrue(pollWithScore(Score.pack(1, 0)) > secondRaw, "Known score after an unparseable one should count as activity");
+    }
+
+    @Test
+    void testSequence_IncreasesOnEveryPoll() throws InterruptedException {
+        pollWithScore(Score.pack(0, 0));
+        pollWithScore(Score.pack(0, 0));
+        pollWithScore(Score.pack(1, 0));
+
+        ArgumentCaptor<Long> sequenceCaptor = ArgumentCaptor.forClass(Long.class);
+        verify(kafkaProducerService, times(3)).sendMessage(any(EventExternalApiResponse.class), sequenceCaptor.capture(), anyLong());
+        assertEquals(List.of(SEED + 1, SEED + 2, SEED + 3), sequenceCaptor.getAllValues());
+    }
+}
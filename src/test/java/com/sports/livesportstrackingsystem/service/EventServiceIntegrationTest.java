@@ -6,6 +6,7 @@ import com.sports.livesportstrackingsystem.model.Event;
 import com.sports.livesportstrackingsystem.model.EventExternalApiResponse;
 import com.sports.livesportstrackingsystem.model.EventStatus;
 import com.sports.livesportstrackingsystem.model.EventStatusRequest;
+import com.sports.livesportstrackingsystem.model.Score;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,7 @@ import reactor.core.publisher.Mono;
 import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -50,10 +52,10 @@ public class EventServiceIntegrationTest {
         liveRequest.setEventId(eventId);
         liveRequest.setStatus(EventStatus.LIVE);
 
-        // Mock external API response for one poll cycle
+        // Mock external API response, the pipeline is assembled once and resubscribed on every poll
         EventExternalApiResponse mockResponse = new EventExternalApiResponse();
         mockResponse.setEventId(eventId);
-        mockResponse.setCurrentScore("1-0");
+        mockResponse.setScore(Score.pack(1, 0));
         when(externalApiService.getEventScore(eventId)).thenReturn(Mono.just(mockResponse));
 
         // Act
@@ -65,14 +67,14 @@ public class EventServiceIntegrationTest {
         assertEquals(EventStatus.LIVE, event.get().getStatus());
 
         // Mockito's timeout is good for async verification
-        verify(externalApiService, timeout(1500)).getEventScore(eventId); // Wait up to 1.5s
-        verify(kafkaProducerService, timeout(1500)).sendMessage(any(EventExternalApiResponse.class));
+        verify(externalApiService, timeout(1500)).getEventScore(eventId); // pipeline assembled when polling starts
+        verify(kafkaProducerService, timeout(1500)).sendMessage(any(EventExternalApiResponse.class), anyLong(), anyLong());
 
         // Capture Kafka message content more concisely
         ArgumentCaptor<EventExternalApiResponse> kafkaMessageCaptor = ArgumentCaptor.forClass(EventExternalApiResponse.class);
-        verify(kafkaProducerService, atLeastOnce()).sendMessage(kafkaMessageCaptor.capture());
+        verify(kafkaProducerService, atLeastOnce()).sendMessage(kafkaMessageCaptor.capture(), anyLong(), anyLong());
         assertEquals(eventId, kafkaMessageCaptor.getValue().getEventId());
-        assertNotNull(kafkaMessageCaptor.getValue().getCurrentScore());
+        assertEquals(Score.pack(1, 0), kafkaMessageCaptor.getValue().getScore());
     }
 
     @Test
@@ -86,17 +88,17 @@ public class EventServiceIntegrationTest {
         notLiveRequest.setEventId(eventId);
         notLiveRequest.setStatus(EventStatus.NOT_LIVE);
 
-        // Mock external API to return something (needs to be called when LIVE)
-        when(externalApiService.getEventScore(eventId)).thenReturn(Mono.just(new EventExternalApiResponse()));
+        // Mock external API to return something, counting subscriptions since each poll resubscribes
+        AtomicInteger polls = new AtomicInteger();
+        when(externalApiService.getEventScore(eventId)).thenReturn(Mono.just(new EventExternalApiResponse()).doOnSubscribe(subscription -> polls.incrementAndGet()));
 
         // Act - Start polling for the LIVE event
         eventService.updateStatusEvent(liveRequest);
 
         // Ensure at least one poll and Kafka message send happen before resetting mocks.
-        verify(externalApiService, timeout(1500)).getEventScore(eventId);
-        verify(kafkaProducerService, timeout(1500)).sendMessage(any());
+        verify(kafkaProducerService, timeout(1500)).sendMessage(any(), anyLong(), anyLong());
+        assertTrue(polls.get() > 0, "External API pipeline should have been subscribed by a poll");
 
-        reset(externalApiService);
         reset(kafkaProducerService);
 
         // Act - Now, set the event to NOT_LIVE, which should stop the scheduler for this event
@@ -106,9 +108,11 @@ public class EventServiceIntegrationTest {
         Optional<Event> event = eventService.getEvent(eventId);
         assertFalse(event.isPresent(), "Event should be removed after going NOT_LIVE");
 
+        int pollsWhenStopped = polls.get();
+
         // Wait 1.5 seconds
-        verify(externalApiService, after(1500).never()).getEventScore(eventId);
-        verify(kafkaProducerService, after(1500).never()).sendMessage(any());
+        verify(kafkaProducerService, after(1500).never()).sendMessage(any(), anyLong(), anyLong());
+        assertEquals(pollsWhenStopped, polls.get(), "No poll should run after NOT_LIVE");
     }
 
     @Test
@@ -118,7 +122,9 @@ public class EventServiceIntegrationTest {
         liveRequest.setEventId(eventId);
         liveRequest.setStatus(EventStatus.LIVE);
 
-        when(externalApiService.getEventScore(eventId)).thenReturn(Mono.error(new RuntimeException("API down")));
+        AtomicInteger polls = new AtomicInteger();
+        when(externalApiService.getEventScore(eventId)).thenReturn(Mono.<EventExternalApiResponse>error(new RuntimeException("API down"))
+                .doOnSubscribe(subscription -> polls.incrementAndGet()));
 
         // Act
         eventService.updateStatusEvent(liveRequest);
@@ -128,9 +134,10 @@ public class EventServiceIntegrationTest {
         assertTrue(event.isPresent(), "Event should still be present even if API errors");
         assertEquals(EventStatus.LIVE, event.get().getStatus());
 
-        verify(externalApiService, timeout(1500).atLeastOnce()).getEventScore(eventId);
-
-        verify(kafkaProducerService, never()).sendMessage(any());
+        // pipeline assembled when polling starts, the poll itself fails on subscription
+        verify(externalApiService, timeout(1500)).getEventScore(eventId);
+        verify(kafkaProducerService, after(500).never()).sendMessage(any(), anyLong(), anyLong());
+        assertTrue(polls.get() > 0, "Failing pipeline should still have been polled");
     }
 
 }
@@ -1,14 +1,20 @@
 package com.sports.livesportstrackingsystem.service;
 
+import com.sports.livesportstrackingsystem.config.LiveEventProperties;
+import com.sports.livesportstrackingsystem.exception.LiveEventLimitException;
 import com.sports.livesportstrackingsystem.model.Event;
 import com.sports.livesportstrackingsystem.model.EventStatus;
 import com.sports.livesportstrackingsystem.model.EventStatusRequest;
 import com.sports.livesportstrackingsystem.scheduler.EventScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.TaskRejectedException;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -21,10 +27,39 @@ public class EventServiceTest {
 
     private EventService eventService;
 
+    private LiveEventProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        eventService = new EventService(eventScheduler);
+        properties = new LiveEventProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        eventService = new EventService(eventScheduler, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventService.shutDown();
+    }
+
+    private EventStatusRequest request(String eventId, EventStatus status) {
+        EventStatusRequest request = new EventStatusRequest();
+        request.setEventId(eventId);
+        request.setStatus(status);
+        return request;
+    }
+
+    private void recreateService() {
+        eventService.shutDown();
+        properties.setExpiryTick(Duration.ofMillis(10));
+        meterRegistry = new SimpleMeterRegistry();
+        eventService = new EventService(eventScheduler, properties, meterRegistry);
+    }
+
+    private double expired(String reason) {
+        return meterRegistry.get("events.expired").tag("reason", reason).counter().count();
     }
 
     @Test
@@ -149,4 +184,140 @@ public class EventServiceTest {
         // Assert
         assertFalse(event.isPresent(), "Event should not be found");
     }
+
+    @Test
+    void testExpiry_IdleEventStopsPolling() {
+        properties.setIdleTtl(Duration.ofMillis(100));
+        recreateService();
+        when(eventScheduler.getLastScoreChangeAt("event123")).thenReturn(0L);
+
+        eventService.updateStatusEvent(request("event123", EventStatus.LIVE));
+
+        // Assert the timer removes the event without a NOT_LIVE
+        verify(eventScheduler, timeout(2000)).stopScheduler("event123");
+        assertFalse(eventService.getEvent("event123").isPresent(), "Idle event should be removed");
+        assertEquals(1.0, expired("idle"));
+        assertEquals(0.0, meterRegistry.get("events.live").gauge().value());
+    }
+
+    @Test
+    void testExpiry_ScoreChangeKeepsEventAlive() throws InterruptedException {
+        properties.setIdleTtl(Duration.ofMillis(300));
+        recreateService();
+        // the score keeps changing, so the event is never idle
+        when(eventScheduler.getLastScoreChangeAt("event123")).thenAnswer(invocation -> System.currentTimeMillis());
+
+        eventService.updateStatusEvent(request("event123", EventStatus.LIVE));
+        Thread.sleep(800);
+
+        assertTrue(eventService.getEvent("event123").isPresent(), "Event with score changes should stay LIVE");
+        verify(eventScheduler, never()).stopScheduler("event123");
+        assertEquals(0.0, expired("idle"));
+    }
+
+    @Test
+    void testExpiry_MaxLifetimeStopsActiveEvent() {
+        properties.setMaxLifetime(Duration.ofMillis(200));
+        recreateService();
+        when(eventScheduler.getLastScoreChangeAt("event123")).thenAnswer(invocation -> System.currentTimeMillis());
+
+        eventService.updateStatusEvent(request("event123", EventStatus.LIVE));
+
+        verify(eventScheduler, timeout(2000)).stopScheduler("event123");
+        assertFalse(eventService.getEvent("event123").isPresent(), "Event should be removed after its max lifetime");
+        assertEquals(1.0, expired("lifetime"));
+    }
+
+    @Test
+    void testMaxLive_EvictsLeastRecentlyRefreshed() {
+        properties.setMaxLive(2);
+        eventService.updateStatusEvent(request("event1", EventStatus.LIVE));
+        eventService.updateStatusEvent(request("event2", EventStatus.LIVE));
+        // refreshing event1 makes event2 the least recent
+        eventService.updateStatusEvent(request("event1", EventStatus.LIVE));
+
+        // Act
+        eventService.updateStatusEvent(request("event3", EventStatus.LIVE));
+
+        // Assert
+        assertTrue(eventService.getEvent("event1").isPresent());
+        assertFalse(eventService.getEvent("event2").isPresent(), "Least recently refreshed event should be evicted");
+        assertTrue(eventService.getEvent("event3").isPresent());
+        verify(eventScheduler, times(1)).stopScheduler("event2");
+        verify(eventScheduler, times(1)).startScheduler("event3");
+        assertEquals(1.0, expired("evicted"));
+    }
+
+    @Test
+    void testMaxLive_EvictionCountsScoreActivity() throws InterruptedException {
+        properties.setMaxLive(2);
+        eventService.updateStatusEvent(request("scoring", EventStatus.LIVE));
+        eventService.updateStatusEvent(request("refreshed", EventStatus.LIVE));
+        Thread.sleep(10);
+        // "refreshed" gets a LIVE refresh, "scoring" never does but changes score afterwards
+        eventService.updateStatusEvent(request("refreshed", EventStatus.LIVE));
+        Thread.sleep(10);
+        when(eventScheduler.getLastScoreChangeAt("scoring")).thenReturn(System.currentTimeMillis());
+
+        // Act
+        eventService.updateStatusEvent(request("event3", EventStatus.LIVE));
+
+        // Assert
+        assertTrue(eventService.getEvent("scoring").isPresent(), "Event with recent score changes should be kept");
+        assertFalse(eventService.getEvent("refreshed").isPresent(), "Least recently active event should be evicted");
+        assertTrue(eventService.getEvent("event3").isPresent());
+        verify(eventScheduler, times(1)).stopScheduler("refreshed");
+        verify(eventScheduler, never()).stopScheduler("scoring");
+    }
+
+    @Test
+    void testMaxLive_RejectNewPolicy() {
+        properties.setMaxLive(1);
+        properties.setEvictionPolicy(LiveEventProperties.EvictionPolicy.REJECT_NEW);
+        eventService.updateStatusEvent(request("event1", EventStatus.LIVE));
+
+        // Act & Assert
+        assertThrows(LiveEventLimitException.class, () -> eventService.updateStatusEvent(request("event2", EventStatus.LIVE)));
+
+        assertTrue(eventService.getEvent("event1").isPresent());
+        assertFalse(eventService.getEvent("event2").isPresent(), "New event should be rejected at the cap");
+        verify(eventScheduler, never()).startScheduler("event2");
+        verify(eventScheduler, never()).stopScheduler(anyString());
+        assertEquals(1.0, meterRegistry.get("events.rejected").counter().count());
+    }
+
+    @Test
+    void testStartSchedulerFailure_ReleasesSlotAndEvictionEntry() {
+        properties.setMaxLive(1);
+        doThrow(new TaskRejectedException("Scheduler shutting down")).when(eventScheduler).startScheduler("broken");
+
+        // Act & Assert
+        assertThrows(TaskRejectedException.class, () -> eventService.updateStatusEvent(request("broken", EventStatus.LIVE)));
+        assertFalse(eventService.getEvent("broken").isPresent(), "Event should not be registered when polling failed to start");
+        assertEquals(0.0, meterRegistry.get("events.live").gauge().value(), "Reserved slot should be released");
+
+        // the freed slot is usable and nothing orphaned is left to evict
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> eventService.updateStatusEvent(request("event2", EventStatus.LIVE)));
+        assertTrue(eventService.getEvent("event2").isPresent());
+        assertEquals(0.0, expired("evicted"));
+        verify(eventScheduler, never()).stopScheduler("broken");
+    }
+
+    @Test
+    void testMaxLive_EvictionSkipsStoppedEvents() {
+        properties.setMaxLive(2);
+        eventService.updateStatusEvent(request("event1", EventStatus.LIVE));
+        eventService.updateStatusEvent(request("event2", EventStatus.LIVE));
+        eventService.updateStatusEvent(request("event1", EventStatus.NOT_LIVE));
+        eventService.updateStatusEvent(request("event3", EventStatus.LIVE));
+
+        // Act
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> eventService.updateStatusEvent(request("event4", EventStatus.LIVE)));
+
+        // Assert
+        assertFalse(eventService.getEvent("event2").isPresent(), "Oldest live event should be evicted");
+        assertTrue(eventService.getEvent("event3").isPresent());
+        assertTrue(eventService.getEvent("event4").isPresent());
+        assertEquals(2.0, meterRegistry.get("events.live").gauge().value());
+    }
 }
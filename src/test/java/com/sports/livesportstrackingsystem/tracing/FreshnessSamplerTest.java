@@ -0,0 +1,55 @@
+package com.sports.livesportstrackingsystem.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FreshnessSamplerTest {
+
+    @Test
+    void testPercentile_NoSamples_ReturnsAbsent() {
+        FreshnessSampler sampler = new FreshnessSampler(8);
+
+        assertEquals(FreshnessSampler.NO_SAMPLES, sampler.percentile(FreshnessSampler.Stage.FETCH_TO_SEND, 50));
+    }
+
+    @Test
+    void testPercentile_NearestRank() {
+        FreshnessSampler sampler = new FreshnessSampler(100);
+        for (int i = 1; i <= 100; i++) {
+            sampler.record(FreshnessSampler.Stage.FETCH_TO_SEND, i);
+        }
+
+        assertEquals(50L, sampler.percentile(FreshnessSampler.Stage.FETCH_TO_SEND, 50));
+        assertEquals(99L, sampler.percentile(FreshnessSampler.Stage.FETCH_TO_SEND, 99));
+        assertEquals(100L, sampler.percentile(FreshnessSampler.Stage.FETCH_TO_SEND, 100));
+        // other stages are tracked independently
+        assertEquals(FreshnessSampler.NO_SAMPLES, sampler.percentile(FreshnessSampler.Stage.UPSTREAM_TO_SEND, 50));
+    }
+
+    @Test
+    void testRecord_WindowKeepsMostRecentSamples() {
+        FreshnessSampler sampler = new FreshnessSampler(4);
+        for (int i = 1; i <= 8; i++) {
+            sampler.record(FreshnessSampler.Stage.UPSTREAM_TO_FETCH, i * 10L);
+        }
+
+        // only 50, 60, 70, 80 remain
+        assertEquals(50L, sampler.percentile(FreshnessSampler.Stage.UPSTREAM_TO_FETCH, 1));
+        assertEquals(80L, sampler.percentile(FreshnessSampler.Stage.UPSTREAM_TO_FETCH, 100));
+    }
+
+    @Test
+    void testRecord_NegativeLatencyIsClamped() {
+        FreshnessSampler sampler = new FreshnessSampler(4);
+        sampler.record(FreshnessSampler.Stage.UPSTREAM_TO_FETCH, -25);
+
+        assertEquals(0L, sampler.percentile(FreshnessSampler.Stage.UPSTREAM_TO_FETCH, 50));
+    }
+
+    @Test
+    void testConstructor_RejectsNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new FreshnessSampler(0));
+    }
+}